@@ -0,0 +1,19 @@
+package com.br.couponmanager.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Relógio usado nas regras que dependem do instante atual. Nos testes unitários, passe um
+ * {@link Clock#fixed} diretamente ao serviço.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
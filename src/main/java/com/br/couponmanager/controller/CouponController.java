@@ -1,7 +1,12 @@
 package com.br.couponmanager.controller;
 
+import com.br.couponmanager.dto.CouponApplyRequest;
+import com.br.couponmanager.dto.CouponApplyResponse;
+import com.br.couponmanager.dto.CouponLookupRequest;
+import com.br.couponmanager.dto.CouponLookupResponse;
 import com.br.couponmanager.dto.CouponRequest;
 import com.br.couponmanager.dto.CouponResponse;
+import com.br.couponmanager.service.CouponDiscountService;
 import com.br.couponmanager.service.CouponService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,9 +23,11 @@ import java.util.UUID;
 public class CouponController {
 
     private final CouponService couponService;
+    private final CouponDiscountService couponDiscountService;
 
-    public CouponController(CouponService couponService) {
+    public CouponController(CouponService couponService, CouponDiscountService couponDiscountService) {
         this.couponService = couponService;
+        this.couponDiscountService = couponDiscountService;
     }
 
     @PostMapping
@@ -37,6 +44,20 @@ public class CouponController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/lookup")
+    @Operation(summary = "Busca cupons em lote", description = "Recupera vários cupons por ID e/ou código em uma única chamada. Itens não encontrados ou deletados retornam null.")
+    public ResponseEntity<CouponLookupResponse> lookupCoupons(@Valid @RequestBody CouponLookupRequest request) {
+        CouponLookupResponse response = couponService.lookupCoupons(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/apply")
+    @Operation(summary = "Aplica um cupom ao carrinho", description = "Verifica a elegibilidade do cupom e calcula o valor com desconto, sem acessar o banco de dados.")
+    public ResponseEntity<CouponApplyResponse> applyCoupon(@Valid @RequestBody CouponApplyRequest request) {
+        CouponApplyResponse response = couponDiscountService.applyCoupon(request);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Deleta um cupom", description = "Realiza o delete de um cupom pelo ID.")
     public ResponseEntity<Void> deleteCoupon(@PathVariable UUID id) {
@@ -0,0 +1,60 @@
+package com.br.couponmanager.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Guarda o instante da última escrita confirmada de cada cliente para a janela de read-your-writes.
+ * As entradas vencidas são removidas no máximo uma vez por janela, por quem registrar a primeira
+ * escrita depois do prazo, para que o custo da varredura não recaia sobre cada escrita.
+ */
+public class ClientWriteTracker {
+
+    private final long windowNanos;
+    private final LongSupplier nanoTime;
+    private final Map<String, Long> lastWriteByClient = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepAt;
+
+    public ClientWriteTracker(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    ClientWriteTracker(Duration window, LongSupplier nanoTime) {
+        this.windowNanos = window.toNanos();
+        this.nanoTime = nanoTime;
+        this.nextSweepAt = new AtomicLong(nanoTime.getAsLong() + windowNanos);
+    }
+
+    public void recordWrite(String clientId) {
+        long now = nanoTime.getAsLong();
+        lastWriteByClient.put(clientId, now);
+        sweepIfDue(now);
+    }
+
+    public boolean wroteRecently(String clientId) {
+        Long writtenAt = lastWriteByClient.get(clientId);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (nanoTime.getAsLong() - writtenAt > windowNanos) {
+            lastWriteByClient.remove(clientId, writtenAt);
+            return false;
+        }
+        return true;
+    }
+
+    int trackedClients() {
+        return lastWriteByClient.size();
+    }
+
+    private void sweepIfDue(long now) {
+        long dueAt = nextSweepAt.get();
+        if (now - dueAt < 0 || !nextSweepAt.compareAndSet(dueAt, now + windowNanos)) {
+            return;
+        }
+        lastWriteByClient.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+    }
+}
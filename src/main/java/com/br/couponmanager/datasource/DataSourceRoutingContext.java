@@ -0,0 +1,51 @@
+package com.br.couponmanager.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Guarda, por thread, o cliente da requisição atual e se ela deve ignorar a réplica e ler do primário.
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<String> CLIENT_ID = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    public static void forcePrimary() {
+        FORCE_PRIMARY.set(true);
+    }
+
+    public static boolean isPrimaryForced() {
+        return FORCE_PRIMARY.get();
+    }
+
+    /**
+     * Executa a ação com leituras fixadas no primário, restaurando o estado anterior ao final.
+     */
+    public static <T> T callOnPrimary(Supplier<T> action) {
+        boolean previouslyForced = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(true);
+        try {
+            return action.get();
+        } finally {
+            if (!previouslyForced) {
+                FORCE_PRIMARY.remove();
+            }
+        }
+    }
+
+    public static void setClientId(String clientId) {
+        CLIENT_ID.set(clientId);
+    }
+
+    public static String getClientId() {
+        return CLIENT_ID.get();
+    }
+
+    public static void clear() {
+        FORCE_PRIMARY.remove();
+        CLIENT_ID.remove();
+    }
+}
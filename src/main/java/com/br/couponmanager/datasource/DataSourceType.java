@@ -0,0 +1,6 @@
+package com.br.couponmanager.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,59 @@
+package com.br.couponmanager.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Envia transações somente leitura para a réplica e todo o resto para o primário.
+ * Deve ser envolvido por um {@code LazyConnectionDataSourceProxy}, pois o flag de
+ * somente leitura só é conhecido depois que a transação é iniciada.
+ * <p>
+ * Quando uma transação de escrita de um cliente identificado usa o primário, registra uma
+ * sincronização que marca a escrita do cliente somente após o commit.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ClientWriteTracker clientWriteTracker;
+
+    public ReadWriteRoutingDataSource(ClientWriteTracker clientWriteTracker) {
+        this.clientWriteTracker = clientWriteTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceRoutingContext.isPrimaryForced() ? DataSourceType.PRIMARY : DataSourceType.REPLICA;
+        }
+        registerWriteOnCommit();
+        return DataSourceType.PRIMARY;
+    }
+
+    private void registerWriteOnCommit() {
+        String clientId = DataSourceRoutingContext.getClientId();
+        if (clientId == null
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        boolean alreadyRegistered = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(RecordWriteOnCommit.class::isInstance);
+        if (!alreadyRegistered) {
+            TransactionSynchronizationManager.registerSynchronization(new RecordWriteOnCommit(clientId));
+        }
+    }
+
+    private class RecordWriteOnCommit implements TransactionSynchronization {
+
+        private final String clientId;
+
+        private RecordWriteOnCommit(String clientId) {
+            this.clientId = clientId;
+        }
+
+        @Override
+        public void afterCommit() {
+            clientWriteTracker.recordWrite(clientId);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.br.couponmanager.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Após uma escrita confirmada, fixa as leituras do mesmo cliente no primário durante uma janela curta,
+ * evitando que ele deixe de enxergar a própria escrita por causa do atraso da réplica. O filtro apenas
+ * identifica o cliente; a escrita é registrada pelo {@link ReadWriteRoutingDataSource} no commit.
+ * <p>
+ * O cliente é identificado apenas pelo header configurado (padrão {@code X-Client-Id}); não há
+ * fallback para o IP, pois atrás de um proxy todos os clientes compartilhariam a mesma chave.
+ * Requisições sem o header são roteadas normalmente, sem garantia de read-your-writes.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ClientWriteTracker clientWriteTracker;
+    private final String clientIdHeader;
+
+    public ReadYourWritesFilter(ClientWriteTracker clientWriteTracker, String clientIdHeader) {
+        this.clientWriteTracker = clientWriteTracker;
+        this.clientIdHeader = clientIdHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientId = request.getHeader(clientIdHeader);
+        if (clientId == null || clientId.isBlank()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        DataSourceRoutingContext.setClientId(clientId);
+        if (clientWriteTracker.wroteRecently(clientId)) {
+            DataSourceRoutingContext.forcePrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DataSourceRoutingContext.clear();
+        }
+    }
+}
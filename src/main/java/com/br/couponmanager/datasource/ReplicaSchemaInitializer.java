@@ -0,0 +1,117 @@
+package com.br.couponmanager.datasource;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.schema.TargetType;
+import org.hibernate.tool.schema.spi.ContributableMatcher;
+import org.hibernate.tool.schema.spi.ExceptionHandler;
+import org.hibernate.tool.schema.spi.ExecutionOptions;
+import org.hibernate.tool.schema.spi.SchemaFilter;
+import org.hibernate.tool.schema.spi.SchemaManagementTool;
+import org.hibernate.tool.schema.spi.ScriptTargetOutput;
+import org.hibernate.tool.schema.spi.TargetDescriptor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+
+import javax.sql.DataSource;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aplica na réplica o mesmo esquema que o Hibernate gera para o primário (equivalente a
+ * {@code ddl-auto: update}), a partir dos metadados das entidades. Usado apenas quando a réplica
+ * não recebe o esquema por replicação, como no perfil local com dois bancos H2.
+ */
+public class ReplicaSchemaInitializer implements Integrator, HibernatePropertiesCustomizer {
+
+    private final DataSource replicaDataSource;
+    private volatile Metadata metadata;
+
+    public ReplicaSchemaInitializer(DataSource replicaDataSource) {
+        this.replicaDataSource = replicaDataSource;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(this));
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        this.metadata = metadata;
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void updateReplicaSchema() {
+        if (metadata == null) {
+            throw new IllegalStateException("Metadados do Hibernate indisponíveis para gerar o esquema da réplica.");
+        }
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DATASOURCE, replicaDataSource)
+                .build();
+        try {
+            Map<String, Object> settings = registry.getService(ConfigurationService.class).getSettings();
+            registry.getService(SchemaManagementTool.class)
+                    .getSchemaMigrator(settings)
+                    .doMigration(metadata, new MigrationOptions(settings), ContributableMatcher.ALL, DatabaseTarget.INSTANCE);
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+
+    private record MigrationOptions(Map<String, Object> configurationValues) implements ExecutionOptions {
+
+        private static final ExceptionHandler HALT_ON_ERROR = exception -> {
+            throw exception;
+        };
+
+        @Override
+        public Map<String, Object> getConfigurationValues() {
+            return configurationValues;
+        }
+
+        @Override
+        public boolean shouldManageNamespaces() {
+            return false;
+        }
+
+        @Override
+        public ExceptionHandler getExceptionHandler() {
+            return HALT_ON_ERROR;
+        }
+
+        @Override
+        public SchemaFilter getSchemaFilter() {
+            return SchemaFilter.ALL;
+        }
+    }
+
+    private enum DatabaseTarget implements TargetDescriptor {
+        INSTANCE;
+
+        @Override
+        public EnumSet<TargetType> getTargetTypes() {
+            return EnumSet.of(TargetType.DATABASE);
+        }
+
+        @Override
+        public ScriptTargetOutput getScriptTargetOutput() {
+            return null;
+        }
+    }
+}
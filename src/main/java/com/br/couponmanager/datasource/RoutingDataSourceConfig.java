@@ -0,0 +1,90 @@
+package com.br.couponmanager.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Substitui o datasource único do Spring Boot por um par primário/réplica quando
+ * {@code coupon.datasource.routing.enabled=true}. Cada pool é configurado de forma independente em
+ * {@code coupon.datasource.primary.hikari.*} e {@code coupon.datasource.replica.hikari.*};
+ * {@code spring.datasource.hikari.*} não se aplica a eles.
+ */
+@Configuration
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "coupon.datasource.routing", name = "enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "coupon.datasource.primary.hikari")
+    public HikariDataSource primaryDataSource(RoutingDataSourceProperties properties) {
+        HikariDataSource dataSource = buildPool(properties.getPrimary());
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "coupon.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(RoutingDataSourceProperties properties) {
+        HikariDataSource dataSource = buildPool(properties.getReplica());
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ClientWriteTracker clientWriteTracker(RoutingDataSourceProperties properties) {
+        return new ClientWriteTracker(properties.getRouting().getReadYourWritesWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ClientWriteTracker clientWriteTracker) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(clientWriteTracker);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "coupon.datasource.routing", name = "generate-replica-schema", havingValue = "true")
+    public ReplicaSchemaInitializer replicaSchemaInitializer(@Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new ReplicaSchemaInitializer(replicaDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(RoutingDataSourceProperties properties,
+                                                                            ClientWriteTracker clientWriteTracker) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(clientWriteTracker, properties.getRouting().getClientIdHeader()));
+        registration.addUrlPatterns("/coupon/*", "/coupon");
+        return registration;
+    }
+
+    private HikariDataSource buildPool(RoutingDataSourceProperties.Connection connection) {
+        DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(connection.getUrl())
+                .username(connection.getUsername())
+                .password(connection.getPassword());
+        if (connection.getDriverClassName() != null) {
+            builder.driverClassName(connection.getDriverClassName());
+        }
+        return builder.build();
+    }
+}
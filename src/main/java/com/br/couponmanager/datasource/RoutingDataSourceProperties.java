@@ -0,0 +1,31 @@
+package com.br.couponmanager.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "coupon.datasource")
+public class RoutingDataSourceProperties {
+
+    private Routing routing = new Routing();
+    private Connection primary = new Connection();
+    private Connection replica = new Connection();
+
+    @Data
+    public static class Routing {
+        private boolean enabled = false;
+        private Duration readYourWritesWindow = Duration.ofSeconds(5);
+        private String clientIdHeader = "X-Client-Id";
+        private boolean generateReplicaSchema = false;
+    }
+
+    @Data
+    public static class Connection {
+        private String url;
+        private String driverClassName;
+        private String username;
+        private String password;
+    }
+}
@@ -22,6 +22,9 @@ import java.util.regex.Pattern;
 @Builder
 public class Coupon {
 
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-zA-Z0-9]");
+    private static final int CODE_LENGTH = 6;
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -62,15 +65,29 @@ public class Coupon {
         validateCreationRules();
     }
 
-    private String cleanAndValidateCode(String rawCode) {
-        Pattern pattern = Pattern.compile("[^a-zA-Z0-9]");
-        Matcher matcher = pattern.matcher(rawCode);
+    /**
+     * Aplica a mesma limpeza usada na criação do cupom. Retorna {@code null} se o código não tiver
+     * caracteres alfanuméricos suficientes.
+     */
+    public static String normalizeCode(String rawCode) {
+        if (rawCode == null) {
+            return null;
+        }
+        Matcher matcher = NON_ALPHANUMERIC.matcher(rawCode);
         String cleanedCode = matcher.replaceAll("");
 
-        if (cleanedCode.length() < 6) {
+        if (cleanedCode.length() < CODE_LENGTH) {
+            return null;
+        }
+        return cleanedCode.substring(0, CODE_LENGTH).toUpperCase();
+    }
+
+    private String cleanAndValidateCode(String rawCode) {
+        String normalizedCode = normalizeCode(rawCode);
+        if (normalizedCode == null) {
             throw new BusinessRuleException("O código do cupom deve ter pelo menos 6 caracteres alfanuméricos após a remoção de caracteres especiais.");
         }
-        return cleanedCode.substring(0, 6).toUpperCase();
+        return normalizedCode;
     }
 
     private void validateDiscountValue(Double value) {
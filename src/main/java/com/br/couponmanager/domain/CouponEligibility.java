@@ -0,0 +1,10 @@
+package com.br.couponmanager.domain;
+
+public enum CouponEligibility {
+    ELIGIBLE,
+    NOT_FOUND,
+    INACTIVE,
+    NOT_PUBLISHED,
+    REDEEMED,
+    EXPIRED
+}
@@ -0,0 +1,57 @@
+package com.br.couponmanager.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Cópia imutável dos campos de um {@link Coupon} necessários para aplicar o desconto,
+ * com o valor já convertido para centavos para evitar aritmética com {@code Double}.
+ */
+public record CouponSnapshot(UUID id,
+                             String code,
+                             long discountCents,
+                             Instant expirationDate,
+                             boolean published,
+                             boolean redeemed,
+                             CouponStatus status) {
+
+    public static CouponSnapshot from(Coupon coupon) {
+        long discountCents = BigDecimal.valueOf(coupon.getDiscountValue())
+                .setScale(2, RoundingMode.HALF_EVEN)
+                .movePointRight(2)
+                .longValueExact();
+        return new CouponSnapshot(
+                coupon.getId(),
+                coupon.getCode(),
+                discountCents,
+                coupon.getExpirationDate(),
+                Boolean.TRUE.equals(coupon.getPublished()),
+                Boolean.TRUE.equals(coupon.getRedeemed()),
+                coupon.getStatus());
+    }
+
+    public CouponEligibility eligibilityAt(Instant now) {
+        if (status != CouponStatus.ACTIVE) {
+            return CouponEligibility.INACTIVE;
+        }
+        if (!published) {
+            return CouponEligibility.NOT_PUBLISHED;
+        }
+        if (redeemed) {
+            return CouponEligibility.REDEEMED;
+        }
+        if (!expirationDate.isAfter(now)) {
+            return CouponEligibility.EXPIRED;
+        }
+        return CouponEligibility.ELIGIBLE;
+    }
+
+    /**
+     * O desconto é um valor fixo e nunca ultrapassa o valor do carrinho.
+     */
+    public long discountCentsFor(long cartCents) {
+        return Math.min(discountCents, cartCents);
+    }
+}
@@ -0,0 +1,21 @@
+package com.br.couponmanager.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class CouponApplyRequest {
+
+    @NotBlank(message = "O código é obrigatório.")
+    private String code;
+
+    @NotNull(message = "O valor do carrinho é obrigatório.")
+    @DecimalMin(value = "0.00", message = "O valor do carrinho não pode ser negativo.")
+    @Digits(integer = 13, fraction = 2, message = "O valor do carrinho deve ter no máximo 2 casas decimais.")
+    private BigDecimal cartAmount;
+}
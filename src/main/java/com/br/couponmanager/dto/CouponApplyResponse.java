@@ -0,0 +1,22 @@
+package com.br.couponmanager.dto;
+
+import com.br.couponmanager.domain.CouponEligibility;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponApplyResponse {
+    private String code;
+    private boolean applied;
+    private CouponEligibility eligibility;
+    private BigDecimal cartAmount;
+    private BigDecimal discountAmount;
+    private BigDecimal finalAmount;
+}
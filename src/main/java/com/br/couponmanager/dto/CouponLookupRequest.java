@@ -0,0 +1,20 @@
+package com.br.couponmanager.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class CouponLookupRequest {
+
+    @Size(max = 1000, message = "É permitido buscar no máximo 1000 IDs por chamada.")
+    private List<@NotNull(message = "O ID não pode ser nulo.") UUID> ids = new ArrayList<>();
+
+    @Size(max = 1000, message = "É permitido buscar no máximo 1000 códigos por chamada.")
+    private List<@NotBlank(message = "O código não pode ser vazio.") String> codes = new ArrayList<>();
+}
@@ -0,0 +1,22 @@
+package com.br.couponmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cada ID ou código solicitado aparece como chave; o valor é {@code null} quando o cupom
+ * não existe ou está deletado.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponLookupResponse {
+    private Map<UUID, CouponResponse> ids;
+    private Map<String, CouponResponse> codes;
+}
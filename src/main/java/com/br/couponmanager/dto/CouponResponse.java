@@ -1,14 +1,18 @@
 package com.br.couponmanager.dto;
 
 import com.br.couponmanager.domain.CouponStatus;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.Instant;
 import java.util.UUID;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class CouponResponse {
     private UUID id;
     private String code;
@@ -5,10 +5,18 @@ import com.br.couponmanager.domain.Coupon;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CouponRepository extends JpaRepository<Coupon, UUID> {
     Optional<Coupon> findByIdAndStatusNot(UUID id, CouponStatus status);
+
+    List<Coupon> findByIdInAndStatusNot(Collection<UUID> ids, CouponStatus status);
+
+    List<Coupon> findByCodeInAndStatusNot(Collection<String> codes, CouponStatus status);
+
+    List<Coupon> findByStatusNot(CouponStatus status);
 }
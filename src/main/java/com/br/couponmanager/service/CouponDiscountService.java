@@ -0,0 +1,49 @@
+package com.br.couponmanager.service;
+
+import com.br.couponmanager.domain.Coupon;
+import com.br.couponmanager.domain.CouponEligibility;
+import com.br.couponmanager.domain.CouponSnapshot;
+import com.br.couponmanager.dto.CouponApplyRequest;
+import com.br.couponmanager.dto.CouponApplyResponse;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * Aplica cupons ao carrinho usando apenas o {@link CouponSnapshotCache}. Os valores são
+ * calculados em centavos ({@code long}) e devolvidos como {@link BigDecimal} com 2 casas.
+ */
+@Service
+public class CouponDiscountService {
+
+    private final CouponSnapshotCache couponSnapshotCache;
+    private final Clock clock;
+
+    public CouponDiscountService(CouponSnapshotCache couponSnapshotCache, Clock clock) {
+        this.couponSnapshotCache = couponSnapshotCache;
+        this.clock = clock;
+    }
+
+    public CouponApplyResponse applyCoupon(CouponApplyRequest request) {
+        long cartCents = request.getCartAmount().movePointRight(2).longValueExact();
+        String normalizedCode = Coupon.normalizeCode(request.getCode());
+
+        CouponSnapshot snapshot = normalizedCode == null ? null : couponSnapshotCache.findByCode(normalizedCode).orElse(null);
+        CouponEligibility eligibility = snapshot == null
+                ? CouponEligibility.NOT_FOUND
+                : snapshot.eligibilityAt(Instant.now(clock));
+
+        long discountCents = eligibility == CouponEligibility.ELIGIBLE ? snapshot.discountCentsFor(cartCents) : 0L;
+
+        return CouponApplyResponse.builder()
+                .code(normalizedCode != null ? normalizedCode : request.getCode())
+                .applied(eligibility == CouponEligibility.ELIGIBLE)
+                .eligibility(eligibility)
+                .cartAmount(BigDecimal.valueOf(cartCents, 2))
+                .discountAmount(BigDecimal.valueOf(discountCents, 2))
+                .finalAmount(BigDecimal.valueOf(cartCents - discountCents, 2))
+                .build();
+    }
+}
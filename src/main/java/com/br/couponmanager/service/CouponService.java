@@ -2,6 +2,8 @@ package com.br.couponmanager.service;
 
 import com.br.couponmanager.domain.Coupon;
 import com.br.couponmanager.domain.CouponStatus;
+import com.br.couponmanager.dto.CouponLookupRequest;
+import com.br.couponmanager.dto.CouponLookupResponse;
 import com.br.couponmanager.dto.CouponRequest;
 import com.br.couponmanager.dto.CouponResponse;
 import com.br.couponmanager.exception.BusinessRuleException;
@@ -9,15 +11,23 @@ import com.br.couponmanager.repository.CouponRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 public class CouponService {
 
+    static final int LOOKUP_CHUNK_SIZE = 200;
+
     private final CouponRepository couponRepository;
+    private final CouponSnapshotCache couponSnapshotCache;
 
-    public CouponService(CouponRepository couponRepository) {
+    public CouponService(CouponRepository couponRepository, CouponSnapshotCache couponSnapshotCache) {
         this.couponRepository = couponRepository;
+        this.couponSnapshotCache = couponSnapshotCache;
     }
 
     @Transactional
@@ -31,10 +41,12 @@ public class CouponService {
                 .build();
 
         couponRepository.save(coupon);
+        couponSnapshotCache.put(coupon);
 
         return mapToResponse(coupon);
     }
 
+    @Transactional(readOnly = true)
     public CouponResponse getCoupon(UUID id) {
         return mapToResponse(findActiveCouponById(id));
     }
@@ -45,6 +57,61 @@ public class CouponService {
 
         coupon.softDelete();
         couponRepository.save(coupon);
+        couponSnapshotCache.evict(coupon.getCode());
+    }
+
+    @Transactional(readOnly = true)
+    public CouponLookupResponse lookupCoupons(CouponLookupRequest request) {
+        List<UUID> ids = request.getIds() == null ? List.of() : request.getIds();
+        List<String> codes = request.getCodes() == null ? List.of() : request.getCodes();
+        if (ids.isEmpty() && codes.isEmpty()) {
+            throw new BusinessRuleException("Informe ao menos um ID ou código para a busca.");
+        }
+
+        return CouponLookupResponse.builder()
+                .ids(lookupByIds(ids))
+                .codes(lookupByCodes(codes))
+                .build();
+    }
+
+    private Map<UUID, CouponResponse> lookupByIds(List<UUID> ids) {
+        Map<UUID, CouponResponse> result = new LinkedHashMap<>();
+        ids.forEach(id -> result.put(id, null));
+
+        for (List<UUID> chunk : chunk(new ArrayList<>(result.keySet()))) {
+            couponRepository.findByIdInAndStatusNot(chunk, CouponStatus.DELETED)
+                    .forEach(coupon -> result.put(coupon.getId(), mapToResponse(coupon)));
+        }
+        return result;
+    }
+
+    private Map<String, CouponResponse> lookupByCodes(List<String> codes) {
+        Map<String, CouponResponse> result = new LinkedHashMap<>();
+        // Vários códigos informados podem resultar no mesmo código normalizado (ex.: "abc-123" e "ABC123").
+        Map<String, List<String>> requestedByNormalizedCode = new LinkedHashMap<>();
+        for (String code : codes) {
+            result.put(code, null);
+            String normalizedCode = Coupon.normalizeCode(code);
+            if (normalizedCode != null) {
+                requestedByNormalizedCode.computeIfAbsent(normalizedCode, key -> new ArrayList<>()).add(code);
+            }
+        }
+
+        for (List<String> chunk : chunk(new ArrayList<>(requestedByNormalizedCode.keySet()))) {
+            for (Coupon coupon : couponRepository.findByCodeInAndStatusNot(chunk, CouponStatus.DELETED)) {
+                CouponResponse response = mapToResponse(coupon);
+                requestedByNormalizedCode.get(coupon.getCode()).forEach(code -> result.put(code, response));
+            }
+        }
+        return result;
+    }
+
+    private static <T> List<List<T>> chunk(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < values.size(); start += LOOKUP_CHUNK_SIZE) {
+            chunks.add(values.subList(start, Math.min(start + LOOKUP_CHUNK_SIZE, values.size())));
+        }
+        return chunks;
     }
 
     private Coupon findActiveCouponById(UUID id) {
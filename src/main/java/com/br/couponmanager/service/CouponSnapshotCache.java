@@ -0,0 +1,92 @@
+package com.br.couponmanager.service;
+
+import com.br.couponmanager.datasource.DataSourceRoutingContext;
+import com.br.couponmanager.domain.Coupon;
+import com.br.couponmanager.domain.CouponSnapshot;
+import com.br.couponmanager.domain.CouponStatus;
+import com.br.couponmanager.repository.CouponRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mantém em memória os cupons não deletados, indexados pelo código, para que a aplicação de
+ * desconto não acesse o banco. As escritas desta instância são refletidas após o commit; a
+ * recarga periódica cobre alterações feitas por outras instâncias.
+ * <p>
+ * Cada escrita local recebe uma versão crescente, e a remoção vira uma lápide (entrada sem snapshot).
+ * A recarga só sobrescreve entradas com versão anterior ao início da leitura no banco, de modo que
+ * um {@code put} ou {@code evict} concorrente nunca é desfeito por dados lidos antes dele.
+ */
+@Component
+public class CouponSnapshotCache {
+
+    private final CouponRepository couponRepository;
+    private final Map<String, Entry> entriesByCode = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    public CouponSnapshotCache(CouponRepository couponRepository) {
+        this.couponRepository = couponRepository;
+    }
+
+    public Optional<CouponSnapshot> findByCode(String normalizedCode) {
+        Entry entry = entriesByCode.get(normalizedCode);
+        return entry == null ? Optional.empty() : Optional.ofNullable(entry.snapshot());
+    }
+
+    public void put(Coupon coupon) {
+        CouponSnapshot snapshot = CouponSnapshot.from(coupon);
+        runAfterCommit(() -> entriesByCode.put(snapshot.code(), new Entry(snapshot, versions.incrementAndGet())));
+    }
+
+    public void evict(String code) {
+        runAfterCommit(() -> entriesByCode.put(code, new Entry(null, versions.incrementAndGet())));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${coupon.snapshot.refresh-interval:PT30S}",
+            initialDelayString = "${coupon.snapshot.refresh-interval:PT30S}")
+    public void refresh() {
+        // Escritas locais com versão até aqui já estavam commitadas quando a leitura começou.
+        long readVersion = versions.get();
+        // Lê do primário: uma réplica atrasada desfaria escritas desta própria instância.
+        List<Coupon> coupons = DataSourceRoutingContext.callOnPrimary(
+                () -> couponRepository.findByStatusNot(CouponStatus.DELETED));
+
+        Map<String, CouponSnapshot> reloaded = new ConcurrentHashMap<>();
+        for (Coupon coupon : coupons) {
+            reloaded.put(coupon.getCode(), CouponSnapshot.from(coupon));
+        }
+
+        reloaded.forEach((code, snapshot) -> entriesByCode.compute(code, (key, current) ->
+                current != null && current.version() > readVersion ? current : new Entry(snapshot, readVersion)));
+        // Remove cupons que sumiram do banco e lápides já refletidas na leitura, preservando escritas mais novas.
+        entriesByCode.entrySet().removeIf(entry ->
+                !reloaded.containsKey(entry.getKey()) && entry.getValue().version() <= readVersion);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Entry(CouponSnapshot snapshot, long version) {
+    }
+}
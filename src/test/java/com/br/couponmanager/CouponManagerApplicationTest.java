@@ -0,0 +1,20 @@
+package com.br.couponmanager;
+
+import com.br.couponmanager.service.CouponDiscountService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest
+class CouponManagerApplicationTest {
+
+    @Autowired
+    private CouponDiscountService couponDiscountService;
+
+    @Test
+    void contextLoads() {
+        assertNotNull(couponDiscountService);
+    }
+}
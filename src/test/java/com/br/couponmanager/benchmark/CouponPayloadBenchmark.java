@@ -0,0 +1,110 @@
+package com.br.couponmanager.benchmark;
+
+import com.br.couponmanager.domain.CouponStatus;
+import com.br.couponmanager.dto.CouponResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a codificação e decodificação de {@link CouponResponse} em JSON, CBOR e Smile,
+ * para um único cupom e para uma resposta em lote.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CouponPayloadBenchmark {
+
+    static final List<String> FORMATS = List.of("json", "cbor", "smile");
+    static final int BULK_SIZE = 100;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"single", "bulk"})
+    private String shape;
+
+    private ObjectMapper mapper;
+    private JavaType type;
+    private Object payload;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        mapper = mapperFor(format);
+        if ("bulk".equals(shape)) {
+            payload = sampleResponses(BULK_SIZE);
+            type = mapper.getTypeFactory().constructCollectionType(List.class, CouponResponse.class);
+        } else {
+            payload = sampleResponse(0);
+            type = mapper.getTypeFactory().constructType(CouponResponse.class);
+        }
+        encoded = mapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return mapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        return mapper.readValue(encoded, type);
+    }
+
+    /**
+     * Monta o mapper com as mesmas opções que o Spring Boot aplica aos conversores HTTP.
+     */
+    static ObjectMapper mapperFor(String format) {
+        JsonFactory factory = switch (format) {
+            case "json" -> new JsonFactory();
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> throw new IllegalArgumentException("Formato desconhecido: " + format);
+        };
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    static CouponResponse sampleResponse(int index) {
+        return CouponResponse.builder()
+                .id(UUID.nameUUIDFromBytes(("coupon-" + index).getBytes()))
+                .code(String.format("CP%04d", index % 10_000))
+                .description("Cupom de desconto para checkout " + index)
+                .discountValue(0.5 + index % 50)
+                .expirationDate(Instant.parse("2030-01-01T00:00:00Z").plus(index, ChronoUnit.HOURS))
+                .published(index % 2 == 0)
+                .redeemed(false)
+                .status(CouponStatus.ACTIVE)
+                .build();
+    }
+
+    static List<CouponResponse> sampleResponses(int size) {
+        List<CouponResponse> responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            responses.add(sampleResponse(i));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,45 @@
+package com.br.couponmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Executado apenas com {@code mvn test -Pbenchmark}. Imprime o tamanho dos payloads por formato
+ * e em seguida roda o {@link CouponPayloadBenchmark} via JMH.
+ */
+@Tag("benchmark")
+class CouponPayloadBenchmarkTest {
+
+    @Test
+    void reportPayloadSizes() throws Exception {
+        System.out.printf("%-6s %10s %10s%n", "format", "single(B)", "bulk(B)");
+        for (String format : CouponPayloadBenchmark.FORMATS) {
+            ObjectMapper mapper = CouponPayloadBenchmark.mapperFor(format);
+            int single = mapper.writeValueAsBytes(CouponPayloadBenchmark.sampleResponse(0)).length;
+            int bulk = mapper.writeValueAsBytes(
+                    CouponPayloadBenchmark.sampleResponses(CouponPayloadBenchmark.BULK_SIZE)).length;
+            System.out.printf("%-6s %10d %10d%n", format, single, bulk);
+        }
+    }
+
+    @Test
+    void runEncodeDecodeThroughput() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(CouponPayloadBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        assertFalse(new Runner(options).run().isEmpty());
+    }
+}
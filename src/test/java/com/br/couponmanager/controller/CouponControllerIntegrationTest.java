@@ -1,10 +1,16 @@
 package com.br.couponmanager.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.br.couponmanager.domain.Coupon;
 import com.br.couponmanager.domain.CouponStatus;
+import com.br.couponmanager.dto.CouponApplyRequest;
+import com.br.couponmanager.dto.CouponLookupRequest;
 import com.br.couponmanager.dto.CouponRequest;
+import com.br.couponmanager.dto.CouponResponse;
 import com.br.couponmanager.repository.CouponRepository;
+import com.br.couponmanager.service.CouponSnapshotCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,13 +20,18 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -38,9 +49,16 @@ class CouponControllerIntegrationTest {
     @Autowired
     private CouponRepository couponRepository;
 
+    private final ObjectMapper cborMapper = new CBORMapper().findAndRegisterModules();
+    private final ObjectMapper smileMapper = new SmileMapper().findAndRegisterModules();
+
+    @Autowired
+    private CouponSnapshotCache couponSnapshotCache;
+
     @BeforeEach
     void setUp() {
         couponRepository.deleteAll();
+        couponSnapshotCache.refresh();
     }
 
     @Test
@@ -182,4 +200,202 @@ class CouponControllerIntegrationTest {
         mockMvc.perform(delete("/coupon/{id}", nonExistentId))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void createCoupon_ShouldAcceptAndReturnCbor_WhenRequested() throws Exception {
+        CouponRequest request = new CouponRequest();
+        request.setCode("ABC-123");
+        request.setDescription("Test Coupon");
+        request.setDiscountValue(0.8);
+        request.setExpirationDate(Instant.now().plus(1, ChronoUnit.DAYS));
+        request.setPublished(true);
+
+        MvcResult result = mockMvc.perform(post("/coupon")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        CouponResponse response = cborMapper.readValue(result.getResponse().getContentAsByteArray(), CouponResponse.class);
+        assertEquals("ABC123", response.getCode());
+        assertEquals(CouponStatus.ACTIVE, response.getStatus());
+    }
+
+    @Test
+    void getCoupon_ShouldReturnSmile_WhenRequested() throws Exception {
+        Coupon coupon = Coupon.builder()
+                .code("ABC123")
+                .description("Test Coupon")
+                .discountValue(0.8)
+                .expirationDate(Instant.now().plus(1, ChronoUnit.DAYS))
+                .published(true)
+                .redeemed(false)
+                .status(CouponStatus.ACTIVE)
+                .build();
+        couponRepository.save(coupon);
+
+        MvcResult result = mockMvc.perform(get("/coupon/{id}", coupon.getId())
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn();
+
+        CouponResponse response = smileMapper.readValue(result.getResponse().getContentAsByteArray(), CouponResponse.class);
+        assertEquals(coupon.getId(), response.getId());
+    }
+
+    @Test
+    void getCoupon_ShouldReturnPlainTextError_WhenCborIsRequestedAndCouponDoesNotExist() throws Exception {
+        MvcResult result = mockMvc.perform(get("/coupon/{id}", UUID.randomUUID())
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andReturn();
+
+        assertTrue(result.getResponse().getContentAsString().contains("não encontrado ou já deletado"));
+    }
+
+    @Test
+    void createCoupon_ShouldReturnSmileValidationErrors_WhenSmileIsRequested() throws Exception {
+        CouponRequest request = new CouponRequest();
+        request.setDescription("Test Coupon");
+        request.setDiscountValue(0.8);
+        request.setExpirationDate(Instant.now().plus(1, ChronoUnit.DAYS));
+
+        MvcResult result = mockMvc.perform(post("/coupon")
+                        .contentType("application/x-jackson-smile")
+                        .accept("application/x-jackson-smile")
+                        .content(smileMapper.writeValueAsBytes(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn();
+
+        Map<?, ?> errors = smileMapper.readValue(result.getResponse().getContentAsByteArray(), Map.class);
+        assertEquals("O código é obrigatório.", errors.get("code"));
+    }
+
+    @Test
+    void getCoupon_ShouldDefaultToJson_WhenAcceptIsAny() throws Exception {
+        Coupon coupon = Coupon.builder()
+                .code("ABC123")
+                .description("Test Coupon")
+                .discountValue(0.8)
+                .expirationDate(Instant.now().plus(1, ChronoUnit.DAYS))
+                .published(true)
+                .redeemed(false)
+                .status(CouponStatus.ACTIVE)
+                .build();
+        couponRepository.save(coupon);
+
+        mockMvc.perform(get("/coupon/{id}", coupon.getId()).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void lookupCoupons_ShouldReturnMapWithNotFoundEntries() throws Exception {
+        Coupon coupon = Coupon.builder()
+                .code("ABC123")
+                .description("Test Coupon")
+                .discountValue(0.8)
+                .expirationDate(Instant.now().plus(1, ChronoUnit.DAYS))
+                .published(true)
+                .redeemed(false)
+                .status(CouponStatus.ACTIVE)
+                .build();
+        couponRepository.save(coupon);
+        UUID missingId = UUID.randomUUID();
+
+        CouponLookupRequest request = new CouponLookupRequest();
+        request.setIds(List.of(coupon.getId(), missingId));
+        request.setCodes(List.of("ABC-123", "ZZZ999"));
+
+        mockMvc.perform(post("/coupon/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ids['" + coupon.getId() + "'].code", is("ABC123")))
+                .andExpect(jsonPath("$.ids['" + missingId + "']", nullValue()))
+                .andExpect(jsonPath("$.codes['ABC-123'].id", is(coupon.getId().toString())))
+                .andExpect(jsonPath("$.codes['ZZZ999']", nullValue()));
+    }
+
+    @Test
+    void lookupCoupons_ShouldReturnBadRequest_WhenRequestIsEmpty() throws Exception {
+        mockMvc.perform(post("/coupon/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void applyCoupon_ShouldReturnDiscountedAmount_WhenCouponWasJustCreated() throws Exception {
+        CouponRequest createRequest = new CouponRequest();
+        createRequest.setCode("ABC-123");
+        createRequest.setDescription("Test Coupon");
+        createRequest.setDiscountValue(10.5);
+        createRequest.setExpirationDate(Instant.now().plus(1, ChronoUnit.DAYS));
+        createRequest.setPublished(true);
+
+        mockMvc.perform(post("/coupon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated());
+
+        CouponApplyRequest applyRequest = new CouponApplyRequest();
+        applyRequest.setCode("abc-123");
+        applyRequest.setCartAmount(new BigDecimal("100.00"));
+
+        mockMvc.perform(post("/coupon/apply")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(applyRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied", is(true)))
+                .andExpect(jsonPath("$.eligibility", is("ELIGIBLE")))
+                .andExpect(jsonPath("$.discountAmount", is(10.5)))
+                .andExpect(jsonPath("$.finalAmount", is(89.5)));
+    }
+
+    @Test
+    void applyCoupon_ShouldNotApply_WhenCouponWasDeleted() throws Exception {
+        Coupon coupon = Coupon.builder()
+                .code("ABC123")
+                .description("Test Coupon")
+                .discountValue(0.8)
+                .expirationDate(Instant.now().plus(1, ChronoUnit.DAYS))
+                .published(true)
+                .redeemed(false)
+                .status(CouponStatus.ACTIVE)
+                .build();
+        couponRepository.save(coupon);
+        couponSnapshotCache.refresh();
+
+        mockMvc.perform(delete("/coupon/{id}", coupon.getId()))
+                .andExpect(status().isNoContent());
+
+        CouponApplyRequest applyRequest = new CouponApplyRequest();
+        applyRequest.setCode("ABC123");
+        applyRequest.setCartAmount(new BigDecimal("100.00"));
+
+        mockMvc.perform(post("/coupon/apply")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(applyRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied", is(false)))
+                .andExpect(jsonPath("$.eligibility", is("NOT_FOUND")));
+    }
+
+    @Test
+    void applyCoupon_ShouldReturnBadRequest_WhenCartAmountIsNegative() throws Exception {
+        CouponApplyRequest applyRequest = new CouponApplyRequest();
+        applyRequest.setCode("ABC123");
+        applyRequest.setCartAmount(new BigDecimal("-1.00"));
+
+        mockMvc.perform(post("/coupon/apply")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(applyRequest)))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,70 @@
+package com.br.couponmanager.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientWriteTrackerTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private final AtomicLong now = new AtomicLong();
+    private ClientWriteTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ClientWriteTracker(WINDOW, now::get);
+    }
+
+    @Test
+    void wroteRecently_ShouldBeTrueOnlyInsideTheWindow() {
+        tracker.recordWrite("client-a");
+
+        advance(WINDOW);
+        assertTrue(tracker.wroteRecently("client-a"));
+
+        advance(Duration.ofMillis(1));
+        assertFalse(tracker.wroteRecently("client-a"));
+        assertFalse(tracker.wroteRecently("client-b"));
+    }
+
+    @Test
+    void recordWrite_ShouldNotSweep_UntilAWindowHasPassedSinceTheLastSweep() {
+        advance(Duration.ofMillis(1));
+        tracker.recordWrite("client-old");
+        advance(WINDOW);
+        tracker.recordWrite("client-a");
+        advance(Duration.ofMillis(1));
+
+        tracker.recordWrite("client-b");
+
+        assertEquals(3, tracker.trackedClients());
+    }
+
+    @Test
+    void recordWrite_ShouldSweepExpiredClients_AtMostOncePerWindow() {
+        for (int i = 0; i < 100; i++) {
+            tracker.recordWrite("old-" + i);
+        }
+        advance(WINDOW.plusMillis(1));
+
+        tracker.recordWrite("client-a");
+        assertEquals(1, tracker.trackedClients());
+
+        advance(WINDOW.plusMillis(1));
+        tracker.recordWrite("client-b");
+        assertEquals(1, tracker.trackedClients());
+
+        advance(Duration.ofMillis(1));
+        tracker.recordWrite("client-c");
+        assertEquals(2, tracker.trackedClients());
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,194 @@
+package com.br.couponmanager.datasource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.br.couponmanager.dto.CouponRequest;
+import com.br.couponmanager.service.CouponSnapshotCache;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "coupon.datasource.routing.enabled=true",
+        "coupon.datasource.routing.generate-replica-schema=true",
+        "coupon.datasource.primary.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "coupon.datasource.primary.username=sa",
+        "coupon.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "coupon.datasource.replica.username=sa",
+        "coupon.datasource.primary.hikari.maximum-pool-size=4",
+        "coupon.datasource.replica.hikari.maximum-pool-size=12"
+})
+@AutoConfigureMockMvc
+class ReadWriteRoutingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private CouponSnapshotCache couponSnapshotCache;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @BeforeEach
+    void setUp() {
+        new JdbcTemplate(primaryDataSource).update("DELETE FROM coupons");
+        new JdbcTemplate(replicaDataSource).update("DELETE FROM coupons");
+        couponSnapshotCache.refresh();
+    }
+
+    @Test
+    void pools_ShouldBeSizedIndependently_FromTheirHikariProperties() {
+        assertEquals(4, primaryDataSource.getMaximumPoolSize());
+        assertEquals(12, replicaDataSource.getMaximumPoolSize());
+        assertEquals("primary", primaryDataSource.getPoolName());
+        assertEquals("replica", replicaDataSource.getPoolName());
+    }
+
+    @Test
+    void openInView_ShouldBeDisabled_SoRoutingIsDecidedPerTransaction() {
+        assertEquals(0, applicationContext.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class).length);
+    }
+
+    @Test
+    void getCoupon_ShouldReadFromPrimary_WhenSameClientWroteRecently() throws Exception {
+        String id = createCoupon("writer");
+
+        mockMvc.perform(get("/coupon/{id}", id).header("X-Client-Id", "writer"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(id)));
+    }
+
+    @Test
+    void getCoupon_ShouldReadFromReplica_WhenClientDidNotWrite() throws Exception {
+        String id = createCoupon("writer");
+
+        // A réplica local não recebe as escritas do primário, então outro cliente não enxerga o cupom.
+        mockMvc.perform(get("/coupon/{id}", id).header("X-Client-Id", "reader"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getCoupon_ShouldReadFromReplica_WhenClientIdHeaderIsMissing() throws Exception {
+        // Sem o header não há como identificar o cliente, então nenhuma leitura é fixada no primário.
+        String id = createCoupon(null);
+
+        mockMvc.perform(get("/coupon/{id}", id))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getCoupon_ShouldReturnCouponStoredOnlyInReplica() throws Exception {
+        UUID id = insertIntoReplicaOnly("REP123");
+
+        mockMvc.perform(get("/coupon/{id}", id).header("X-Client-Id", "reader"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code", is("REP123")));
+    }
+
+    @Test
+    void getCoupon_ShouldStillReadFromReplica_AfterFailedMutation() throws Exception {
+        UUID id = insertIntoReplicaOnly("REP123");
+
+        mockMvc.perform(delete("/coupon/{id}", UUID.randomUUID()).header("X-Client-Id", "client"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/coupon/{id}", id).header("X-Client-Id", "client"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getCoupon_ShouldStillReadFromReplica_AfterReadOnlyPost() throws Exception {
+        UUID id = insertIntoReplicaOnly("REP123");
+
+        mockMvc.perform(post("/coupon/lookup")
+                        .header("X-Client-Id", "client")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"codes\": [\"REP123\"]}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/coupon/{id}", id).header("X-Client-Id", "client"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void applyCoupon_ShouldKeepCouponCreatedOnPrimary_AfterSnapshotRefresh() throws Exception {
+        createCoupon("writer");
+
+        // A réplica local nunca recebe o cupom; a recarga precisa ler do primário para não descartá-lo.
+        couponSnapshotCache.refresh();
+
+        mockMvc.perform(post("/coupon/apply")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"code\": \"ABC123\", \"cartAmount\": 10.00}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eligibility", is("ELIGIBLE")));
+    }
+
+    private UUID insertIntoReplicaOnly(String code) {
+        UUID id = UUID.randomUUID();
+        new JdbcTemplate(replicaDataSource).update(
+                "INSERT INTO coupons (id, code, description, discount_value, expiration_date, published, redeemed, status) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                id, code, "Replica Coupon", 0.8, OffsetDateTime.now(ZoneOffset.UTC).plusDays(1),
+                true, false, "ACTIVE");
+        return id;
+    }
+
+    private String createCoupon(String clientId) throws Exception {
+        CouponRequest request = new CouponRequest();
+        request.setCode("ABC-123");
+        request.setDescription("Test Coupon");
+        request.setDiscountValue(0.8);
+        request.setExpirationDate(OffsetDateTime.now().plusDays(1).toInstant().truncatedTo(ChronoUnit.SECONDS));
+        request.setPublished(true);
+
+        MockHttpServletRequestBuilder builder = post("/coupon")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request));
+        if (clientId != null) {
+            builder.header("X-Client-Id", clientId);
+        }
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        return body.get("id").asText();
+    }
+}
@@ -75,4 +75,15 @@ class CouponTest {
         BusinessRuleException exception = assertThrows(BusinessRuleException.class, validCoupon::softDelete);
         assertTrue(exception.getMessage().contains("já está deletado"));
     }
+
+    @Test
+    void normalizeCode_ShouldCleanAndTruncate_LikeCreation() {
+        assertEquals("ABC123", Coupon.normalizeCode("abc-123456"));
+    }
+
+    @Test
+    void normalizeCode_ShouldReturnNull_WhenCodeIsTooShort() {
+        assertNull(Coupon.normalizeCode("AB-1"));
+        assertNull(Coupon.normalizeCode(null));
+    }
 }
@@ -0,0 +1,55 @@
+package com.br.couponmanager.loadtest;
+
+import com.br.couponmanager.repository.CouponRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Carga sustentada em {@code POST /coupon/apply} via HTTP, passando por serialização, filtros e
+ * controller. Além dos SLOs, confirma que o caminho de aplicação não acessa o banco. Configurado pelas
+ * propriedades {@code -Dload.apply.*}; {@code mvn verify -Ploadtest} usa a taxa alta completa.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        // Evita que a recarga periódica dos snapshots consulte o banco durante a medição.
+        properties = "coupon.snapshot.refresh-interval=PT1H")
+class CouponApplyLoadIT {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @SpyBean
+    private CouponRepository couponRepository;
+
+    @Test
+    void applyCoupon_ShouldMeetLatencySlosWithoutDatabaseAccess() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties("load.apply", "apply:100");
+        CouponLoadClient client = new CouponLoadClient(port, objectMapper);
+        client.seed(settings.seedCoupons());
+        clearInvocations(couponRepository);
+
+        LoadTestReport report = new OpenModelLoadGenerator(settings, client::execute).run();
+
+        System.out.print(report.format(settings));
+        if (settings.mix().keySet().equals(Set.of(LoadOperation.APPLY))) {
+            verifyNoInteractions(couponRepository);
+        }
+        List<String> violations = report.sloViolations(settings);
+        assertTrue(violations.isEmpty(), "SLOs violados: " + String.join("; ", violations));
+    }
+}
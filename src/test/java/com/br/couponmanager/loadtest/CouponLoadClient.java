@@ -0,0 +1,150 @@
+package com.br.couponmanager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executa as operações do teste de carga contra a API via HTTP. GET, LOOKUP e APPLY usam apenas cupons
+ * semeados, que nunca são deletados, para que uma falha indique um erro real e não um cupom removido pela
+ * própria carga.
+ */
+class CouponLoadClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final int LOOKUP_IDS = 8;
+    private static final int LOOKUP_CODES = 2;
+    private static final long MAX_CODES = 2_176_782_336L; // 36^6
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+
+    // Início aleatório para que testes de carga no mesmo banco (mesma JVM do Failsafe) não gerem códigos repetidos.
+    private final AtomicLong codeSequence = new AtomicLong(ThreadLocalRandom.current().nextLong(MAX_CODES / 2));
+    private final List<UUID> readableIds = new CopyOnWriteArrayList<>();
+    private final List<String> readableCodes = new CopyOnWriteArrayList<>();
+    private final Queue<UUID> deletableIds = new ConcurrentLinkedQueue<>();
+
+    CouponLoadClient(int port, ObjectMapper objectMapper) {
+        this.baseUrl = "http://localhost:" + port;
+        this.objectMapper = objectMapper;
+    }
+
+    void seed(int coupons) throws IOException, InterruptedException {
+        for (int i = 0; i < coupons; i++) {
+            String code = nextCode();
+            readableIds.add(createCoupon(code));
+            readableCodes.add(code);
+        }
+    }
+
+    LoadOutcome execute(LoadOperation operation) {
+        try {
+            return switch (operation) {
+                case CREATE -> {
+                    deletableIds.add(createCoupon(nextCode()));
+                    yield new LoadOutcome(LoadOperation.CREATE, true);
+                }
+                case GET -> new LoadOutcome(LoadOperation.GET, getCoupon(randomReadableId()));
+                case DELETE -> {
+                    UUID id = deletableIds.poll();
+                    // Sem cupons disponíveis para deletar, a requisição vira um GET (e é registrada como GET) para manter a taxa.
+                    yield id != null
+                            ? new LoadOutcome(LoadOperation.DELETE, deleteCoupon(id))
+                            : new LoadOutcome(LoadOperation.GET, getCoupon(randomReadableId()));
+                }
+                case LOOKUP -> new LoadOutcome(LoadOperation.LOOKUP, lookupCoupons());
+                case APPLY -> new LoadOutcome(LoadOperation.APPLY, applyCoupon());
+            };
+        } catch (IOException | InterruptedException ex) {
+            if (ex instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return new LoadOutcome(operation, false);
+        }
+    }
+
+    private UUID createCoupon(String code) throws IOException, InterruptedException {
+        Map<String, Object> body = Map.of(
+                "code", code,
+                "description", "Load Test Coupon",
+                "discountValue", 5.0,
+                "expirationDate", Instant.now().plus(1, ChronoUnit.DAYS).toString(),
+                "published", true);
+        HttpResponse<String> response = postJson("/coupon", body);
+        if (response.statusCode() != 201) {
+            throw new IOException("Falha ao criar cupom: HTTP " + response.statusCode());
+        }
+        return UUID.fromString(objectMapper.readTree(response.body()).get("id").asText());
+    }
+
+    private boolean getCoupon(UUID id) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(request("/coupon/" + id).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() == 200;
+    }
+
+    private boolean deleteCoupon(UUID id) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(request("/coupon/" + id).DELETE().build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() == 204;
+    }
+
+    private boolean lookupCoupons() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<UUID> ids = random.ints(LOOKUP_IDS, 0, readableIds.size()).mapToObj(readableIds::get).toList();
+        List<String> codes = random.ints(LOOKUP_CODES, 0, readableCodes.size()).mapToObj(readableCodes::get).toList();
+        return postJson("/coupon/lookup", Map.of("ids", ids, "codes", codes)).statusCode() == 200;
+    }
+
+    private boolean applyCoupon() throws IOException, InterruptedException {
+        String code = readableCodes.get(ThreadLocalRandom.current().nextInt(readableCodes.size()));
+        HttpResponse<String> response = postJson("/coupon/apply", Map.of("code", code, "cartAmount", new BigDecimal("129.90")));
+        // Os cupons semeados estão sempre elegíveis; um "applied": false indica snapshot ausente ou incorreto.
+        return response.statusCode() == 200 && objectMapper.readTree(response.body()).get("applied").asBoolean();
+    }
+
+    private HttpResponse<String> postJson(String path, Object body) throws IOException, InterruptedException {
+        return httpClient.send(request(path)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private UUID randomReadableId() {
+        return readableIds.get(ThreadLocalRandom.current().nextInt(readableIds.size()));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    /**
+     * Códigos únicos de 6 caracteres em base 36, já no formato que a entidade mantém após a limpeza.
+     */
+    private String nextCode() {
+        String code = Long.toString(codeSequence.getAndIncrement(), 36).toUpperCase();
+        return "000000".substring(code.length()) + code;
+    }
+}
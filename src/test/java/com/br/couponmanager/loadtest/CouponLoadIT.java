@@ -0,0 +1,42 @@
+package com.br.couponmanager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Sobe a aplicação em uma porta aleatória e aplica uma mistura de create/get/delete/lookup/apply via HTTP em taxa
+ * fixa, falhando o build se algum SLO for violado. Roda na fase {@code integration-test} com uma carga
+ * curta e leve; {@code mvn verify -Ploadtest} usa a carga completa. Os parâmetros estão descritos em
+ * {@link LoadTestSettings}.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CouponLoadIT {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void mixedTraffic_ShouldMeetLatencySlos() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties("load", "create:15,get:60,delete:5,lookup:10,apply:10");
+        CouponLoadClient client = new CouponLoadClient(port, objectMapper);
+        client.seed(settings.seedCoupons());
+
+        LoadTestReport report = new OpenModelLoadGenerator(settings, client::execute).run();
+
+        System.out.print(report.format(settings));
+        List<String> violations = report.sloViolations(settings);
+        assertTrue(violations.isEmpty(), "SLOs violados: " + String.join("; ", violations));
+    }
+}
@@ -0,0 +1,9 @@
+package com.br.couponmanager.loadtest;
+
+public enum LoadOperation {
+    CREATE,
+    GET,
+    DELETE,
+    LOOKUP,
+    APPLY
+}
@@ -0,0 +1,8 @@
+package com.br.couponmanager.loadtest;
+
+/**
+ * Resultado de uma requisição. A operação pode diferir da sorteada quando o cliente precisa
+ * substituí-la (por exemplo, um DELETE sem cupons disponíveis vira GET).
+ */
+record LoadOutcome(LoadOperation operation, boolean success) {
+}
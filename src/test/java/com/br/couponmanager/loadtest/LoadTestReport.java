@@ -0,0 +1,129 @@
+package com.br.couponmanager.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumula latências (em microssegundos) por operação e compara o resultado com os SLOs configurados.
+ * <p>
+ * Latências e erros consideram as requisições cujo envio estava previsto a partir do fim do aquecimento,
+ * mesmo que terminem depois. A vazão conta apenas requisições bem-sucedidas que de fato terminaram dentro
+ * da janela de medição, dividida pela duração real dessa janela.
+ */
+class LoadTestReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<LoadOperation, Histogram> latencies = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+    private final Histogram overall = newHistogram();
+    private final LongAdder totalErrors = new LongAdder();
+    private final LongAdder completedInWindow = new LongAdder();
+    private final long measureStartNanos;
+    private volatile long windowEndNanos = Long.MAX_VALUE;
+
+    LoadTestReport(long measureStartNanos) {
+        this.measureStartNanos = measureStartNanos;
+        for (LoadOperation operation : LoadOperation.values()) {
+            latencies.put(operation, newHistogram());
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(LoadOutcome outcome, long intendedStartNanos, long completedAtNanos) {
+        if (outcome.success() && completedAtNanos >= measureStartNanos && completedAtNanos <= windowEndNanos) {
+            completedInWindow.increment();
+        }
+        if (intendedStartNanos < measureStartNanos) {
+            return;
+        }
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(completedAtNanos - intendedStartNanos), HIGHEST_TRACKABLE_MICROS);
+        latencies.get(outcome.operation()).recordValue(micros);
+        overall.recordValue(micros);
+        if (!outcome.success()) {
+            errors.get(outcome.operation()).increment();
+            totalErrors.increment();
+        }
+    }
+
+    void closeWindow(long windowEndNanos) {
+        this.windowEndNanos = windowEndNanos;
+    }
+
+    String format(LoadTestSettings settings) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Alvo: %d req/s | obtido: %.1f req/s | janela: %.1fs%n",
+                settings.requestsPerSecond(), throughput(), elapsedSeconds()));
+        report.append(String.format("%-8s %8s %7s %9s %9s %9s %9s %9s%n",
+                "op", "count", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        latencies.forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() > 0) {
+                report.append(formatRow(operation.name(), histogram, errors.get(operation).sum()));
+            }
+        });
+        report.append(formatRow("ALL", overall, totalErrors.sum()));
+        return report.toString();
+    }
+
+    List<String> sloViolations(LoadTestSettings settings) {
+        List<String> violations = new ArrayList<>();
+        checkPercentile(violations, "p50", 50.0, settings.sloP50Millis());
+        checkPercentile(violations, "p99", 99.0, settings.sloP99Millis());
+        checkPercentile(violations, "p99.9", 99.9, settings.sloP999Millis());
+
+        long measured = overall.getTotalCount();
+        double errorRate = measured == 0 ? 0 : (double) totalErrors.sum() / measured;
+        if (errorRate > settings.maxErrorRate()) {
+            violations.add(String.format("taxa de erro %.4f > %.4f", errorRate, settings.maxErrorRate()));
+        }
+        double throughputRatio = throughput() / settings.requestsPerSecond();
+        if (throughputRatio < settings.minThroughputRatio()) {
+            violations.add(String.format("vazão %.1f%% do alvo < %.1f%%",
+                    throughputRatio * 100, settings.minThroughputRatio() * 100));
+        }
+        return violations;
+    }
+
+    private void checkPercentile(List<String> violations, String label, double percentile, double limitMillis) {
+        double actualMillis = millis(overall.getValueAtPercentile(percentile));
+        if (actualMillis > limitMillis) {
+            violations.add(String.format("%s de %.2fms > %.2fms", label, actualMillis, limitMillis));
+        }
+    }
+
+    private double throughput() {
+        double seconds = elapsedSeconds();
+        return seconds <= 0 ? 0 : completedInWindow.sum() / seconds;
+    }
+
+    private double elapsedSeconds() {
+        return (windowEndNanos - measureStartNanos) / 1e9;
+    }
+
+    private static String formatRow(String label, Histogram histogram, long errorCount) {
+        return String.format("%-8s %8d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                label,
+                histogram.getTotalCount(),
+                errorCount,
+                millis(histogram.getValueAtPercentile(50.0)),
+                millis(histogram.getValueAtPercentile(90.0)),
+                millis(histogram.getValueAtPercentile(99.0)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    }
+}
@@ -0,0 +1,66 @@
+package com.br.couponmanager.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Parâmetros do teste de carga, lidos de propriedades de sistema (por exemplo {@code -Dload.*}) para que
+ * possam ser ajustados na linha de comando do Maven sem alterar o código.
+ */
+record LoadTestSettings(int requestsPerSecond,
+                        Duration warmup,
+                        Duration duration,
+                        Map<LoadOperation, Integer> mix,
+                        int seedCoupons,
+                        double sloP50Millis,
+                        double sloP99Millis,
+                        double sloP999Millis,
+                        double maxErrorRate,
+                        double minThroughputRatio) {
+
+    /**
+     * @param prefix     prefixo das propriedades, permitindo configurar cada teste de carga separadamente
+     * @param defaultMix mistura usada quando {@code <prefix>.mix} não é informado
+     */
+    static LoadTestSettings fromSystemProperties(String prefix, String defaultMix) {
+        return new LoadTestSettings(
+                Integer.getInteger(prefix + ".rate", 200),
+                Duration.ofSeconds(Long.getLong(prefix + ".warmupSeconds", 5)),
+                Duration.ofSeconds(Long.getLong(prefix + ".durationSeconds", 20)),
+                parseMix(prefix, System.getProperty(prefix + ".mix", defaultMix)),
+                Integer.getInteger(prefix + ".seedCoupons", 100),
+                doubleProperty(prefix + ".slo.p50Ms", 20),
+                doubleProperty(prefix + ".slo.p99Ms", 100),
+                doubleProperty(prefix + ".slo.p999Ms", 250),
+                doubleProperty(prefix + ".slo.maxErrorRate", 0.001),
+                doubleProperty(prefix + ".slo.minThroughputRatio", 0.95));
+    }
+
+    long intervalNanos() {
+        return 1_000_000_000L / requestsPerSecond;
+    }
+
+    private static Map<LoadOperation, Integer> parseMix(String prefix, String value) {
+        Map<LoadOperation, Integer> mix = new EnumMap<>(LoadOperation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Entrada inválida em " + prefix + ".mix: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(LoadOperation.valueOf(parts[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException(prefix + ".mix deve ter ao menos uma operação com peso positivo.");
+        }
+        return mix;
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,91 @@
+package com.br.couponmanager.loadtest;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Gera carga em modelo aberto: as requisições são disparadas em uma taxa fixa, independentemente de
+ * quantas ainda estão em andamento. A latência é medida a partir do instante em que a requisição
+ * deveria ter sido enviada, e não de quando foi de fato enviada, o que corrige a omissão coordenada
+ * quando o gerador ou o servidor atrasam.
+ */
+class OpenModelLoadGenerator {
+
+    private final LoadTestSettings settings;
+    private final Function<LoadOperation, LoadOutcome> executor;
+    private final LoadOperation[] weightedOperations;
+
+    /**
+     * @param executor executa a operação sorteada e informa qual operação foi de fato enviada e se teve sucesso
+     */
+    OpenModelLoadGenerator(LoadTestSettings settings, Function<LoadOperation, LoadOutcome> executor) {
+        this.settings = settings;
+        this.executor = executor;
+        this.weightedOperations = expandMix(settings.mix());
+    }
+
+    LoadTestReport run() throws InterruptedException {
+        long intervalNanos = settings.intervalNanos();
+        long start = System.nanoTime();
+        long measureStart = start + settings.warmup().toNanos();
+        long end = measureStart + settings.duration().toNanos();
+        LoadTestReport report = new LoadTestReport(measureStart);
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intendedStart = start + i * intervalNanos;
+                if (intendedStart >= end) {
+                    break;
+                }
+                parkUntil(intendedStart);
+
+                LoadOperation operation = weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+                workers.execute(() -> {
+                    LoadOutcome outcome = execute(operation);
+                    report.record(outcome, intendedStart, System.nanoTime());
+                });
+            }
+            // A janela de vazão termina quando o gerador para de disparar; se ele atrasou, ela se estende
+            // até o instante real, e as requisições que ainda estão em andamento não contam como concluídas.
+            report.closeWindow(Math.max(System.nanoTime(), end));
+
+            workers.shutdown();
+            if (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                workers.shutdownNow();
+            }
+        }
+        return report;
+    }
+
+    private LoadOutcome execute(LoadOperation operation) {
+        try {
+            return executor.apply(operation);
+        } catch (RuntimeException ex) {
+            return new LoadOutcome(operation, false);
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static LoadOperation[] expandMix(Map<LoadOperation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        LoadOperation[] operations = new LoadOperation[total];
+        int index = 0;
+        for (Map.Entry<LoadOperation, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                operations[index++] = entry.getKey();
+            }
+        }
+        return operations;
+    }
+}
@@ -0,0 +1,145 @@
+package com.br.couponmanager.service;
+
+import com.br.couponmanager.domain.Coupon;
+import com.br.couponmanager.domain.CouponEligibility;
+import com.br.couponmanager.domain.CouponStatus;
+import com.br.couponmanager.dto.CouponApplyRequest;
+import com.br.couponmanager.dto.CouponApplyResponse;
+import com.br.couponmanager.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponDiscountServiceTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T12:00:00Z");
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private CouponSnapshotCache couponSnapshotCache;
+    private CouponDiscountService couponDiscountService;
+
+    @BeforeEach
+    void setUp() {
+        couponSnapshotCache = new CouponSnapshotCache(couponRepository);
+        couponDiscountService = new CouponDiscountService(couponSnapshotCache, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void applyCoupon_ShouldSubtractDiscountInExactCents_WhenCouponIsEligible() {
+        couponSnapshotCache.put(coupon("ABC123", 0.1, true, CouponStatus.ACTIVE, NOW.plus(1, ChronoUnit.DAYS)));
+
+        CouponApplyResponse response = couponDiscountService.applyCoupon(request("abc-123", "0.30"));
+
+        assertTrue(response.isApplied());
+        assertEquals(CouponEligibility.ELIGIBLE, response.getEligibility());
+        assertEquals("ABC123", response.getCode());
+        assertEquals(new BigDecimal("0.10"), response.getDiscountAmount());
+        assertEquals(new BigDecimal("0.20"), response.getFinalAmount());
+    }
+
+    @Test
+    void applyCoupon_ShouldCapDiscountAtCartAmount() {
+        couponSnapshotCache.put(coupon("ABC123", 50.0, true, CouponStatus.ACTIVE, NOW.plus(1, ChronoUnit.DAYS)));
+
+        CouponApplyResponse response = couponDiscountService.applyCoupon(request("ABC123", "19.99"));
+
+        assertEquals(new BigDecimal("19.99"), response.getDiscountAmount());
+        assertEquals(new BigDecimal("0.00"), response.getFinalAmount());
+    }
+
+    @Test
+    void applyCoupon_ShouldNotApply_WhenCouponIsNotFound() {
+        CouponApplyResponse response = couponDiscountService.applyCoupon(request("XYZ999", "100"));
+
+        assertFalse(response.isApplied());
+        assertEquals(CouponEligibility.NOT_FOUND, response.getEligibility());
+        assertEquals(new BigDecimal("100.00"), response.getFinalAmount());
+    }
+
+    @Test
+    void applyCoupon_ShouldNotApply_WhenCouponIsExpired() {
+        couponSnapshotCache.put(coupon("ABC123", 5.0, true, CouponStatus.ACTIVE, NOW));
+
+        CouponApplyResponse response = couponDiscountService.applyCoupon(request("ABC123", "100"));
+
+        assertEquals(CouponEligibility.EXPIRED, response.getEligibility());
+        assertEquals(new BigDecimal("0.00"), response.getDiscountAmount());
+    }
+
+    @Test
+    void applyCoupon_ShouldNotApply_WhenCouponIsNotPublished() {
+        couponSnapshotCache.put(coupon("ABC123", 5.0, false, CouponStatus.ACTIVE, NOW.plus(1, ChronoUnit.DAYS)));
+
+        CouponApplyResponse response = couponDiscountService.applyCoupon(request("ABC123", "100"));
+
+        assertEquals(CouponEligibility.NOT_PUBLISHED, response.getEligibility());
+    }
+
+    @Test
+    void applyCoupon_ShouldNotApply_WhenCouponIsInactive() {
+        couponSnapshotCache.put(coupon("ABC123", 5.0, true, CouponStatus.INACTIVE, NOW.plus(1, ChronoUnit.DAYS)));
+
+        CouponApplyResponse response = couponDiscountService.applyCoupon(request("ABC123", "100"));
+
+        assertEquals(CouponEligibility.INACTIVE, response.getEligibility());
+    }
+
+    @Test
+    void applyCoupon_ShouldNotApply_AfterCouponIsEvicted() {
+        couponSnapshotCache.put(coupon("ABC123", 5.0, true, CouponStatus.ACTIVE, NOW.plus(1, ChronoUnit.DAYS)));
+        couponSnapshotCache.evict("ABC123");
+
+        CouponApplyResponse response = couponDiscountService.applyCoupon(request("ABC123", "100"));
+
+        assertEquals(CouponEligibility.NOT_FOUND, response.getEligibility());
+    }
+
+    @Test
+    void refresh_ShouldReplaceSnapshotsWithNonDeletedCoupons() {
+        couponSnapshotCache.put(coupon("OLD123", 5.0, true, CouponStatus.ACTIVE, NOW.plus(1, ChronoUnit.DAYS)));
+        when(couponRepository.findByStatusNot(CouponStatus.DELETED))
+                .thenReturn(List.of(coupon("NEW123", 5.0, true, CouponStatus.ACTIVE, NOW.plus(1, ChronoUnit.DAYS))));
+
+        couponSnapshotCache.refresh();
+
+        assertEquals(CouponEligibility.NOT_FOUND, couponDiscountService.applyCoupon(request("OLD123", "10")).getEligibility());
+        assertEquals(CouponEligibility.ELIGIBLE, couponDiscountService.applyCoupon(request("NEW123", "10")).getEligibility());
+    }
+
+    private static Coupon coupon(String code, double discountValue, boolean published, CouponStatus status,
+                                 Instant expirationDate) {
+        return Coupon.builder()
+                .id(UUID.randomUUID())
+                .code(code)
+                .description("Test Coupon")
+                .discountValue(discountValue)
+                .expirationDate(expirationDate)
+                .published(published)
+                .redeemed(false)
+                .status(status)
+                .build();
+    }
+
+    private static CouponApplyRequest request(String code, String cartAmount) {
+        CouponApplyRequest request = new CouponApplyRequest();
+        request.setCode(code);
+        request.setCartAmount(new BigDecimal(cartAmount));
+        return request;
+    }
+}
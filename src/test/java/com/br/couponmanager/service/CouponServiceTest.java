@@ -2,6 +2,8 @@ package com.br.couponmanager.service;
 
 import com.br.couponmanager.domain.Coupon;
 import com.br.couponmanager.domain.CouponStatus;
+import com.br.couponmanager.dto.CouponLookupRequest;
+import com.br.couponmanager.dto.CouponLookupResponse;
 import com.br.couponmanager.dto.CouponRequest;
 import com.br.couponmanager.dto.CouponResponse;
 import com.br.couponmanager.exception.BusinessRuleException;
@@ -15,11 +17,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +33,9 @@ class CouponServiceTest {
     @Mock
     private CouponRepository couponRepository;
 
+    @Mock
+    private CouponSnapshotCache couponSnapshotCache;
+
     @InjectMocks
     private CouponService couponService;
 
@@ -71,6 +79,7 @@ class CouponServiceTest {
         assertNotNull(response);
         assertEquals("ABC123", response.getCode());
         verify(couponRepository, times(1)).save(any(Coupon.class));
+        verify(couponSnapshotCache, times(1)).put(any(Coupon.class));
     }
 
     @Test
@@ -124,6 +133,7 @@ class CouponServiceTest {
 
         assertEquals(CouponStatus.DELETED, validCoupon.getStatus());
         verify(couponRepository, times(1)).save(validCoupon);
+        verify(couponSnapshotCache, times(1)).evict("ABC123");
     }
 
     @Test
@@ -150,4 +160,54 @@ class CouponServiceTest {
         assertTrue(exception.getMessage().contains("já deletado"));
         verify(couponRepository, never()).save(any(Coupon.class));
     }
+
+    @Test
+    void lookupCoupons_ShouldReturnFoundAndNotFoundEntries_WhenIdsAndCodesAreGiven() {
+        UUID missingId = UUID.randomUUID();
+        CouponLookupRequest request = new CouponLookupRequest();
+        request.setIds(List.of(couponId, missingId));
+        request.setCodes(List.of("abc-123", "XYZ999", "AB"));
+
+        when(couponRepository.findByIdInAndStatusNot(List.of(couponId, missingId), CouponStatus.DELETED))
+                .thenReturn(List.of(validCoupon));
+        when(couponRepository.findByCodeInAndStatusNot(List.of("ABC123", "XYZ999"), CouponStatus.DELETED))
+                .thenReturn(List.of(validCoupon));
+
+        CouponLookupResponse response = couponService.lookupCoupons(request);
+
+        assertEquals(couponId, response.getIds().get(couponId).getId());
+        assertTrue(response.getIds().containsKey(missingId));
+        assertNull(response.getIds().get(missingId));
+        assertEquals("ABC123", response.getCodes().get("abc-123").getCode());
+        assertTrue(response.getCodes().containsKey("XYZ999"));
+        assertNull(response.getCodes().get("XYZ999"));
+        assertTrue(response.getCodes().containsKey("AB"));
+        assertNull(response.getCodes().get("AB"));
+    }
+
+    @Test
+    void lookupCoupons_ShouldQueryInChunks_WhenManyIdsAreGiven() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < CouponService.LOOKUP_CHUNK_SIZE + 1; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        CouponLookupRequest request = new CouponLookupRequest();
+        request.setIds(ids);
+        when(couponRepository.findByIdInAndStatusNot(anyCollection(), any(CouponStatus.class)))
+                .thenReturn(List.of());
+
+        CouponLookupResponse response = couponService.lookupCoupons(request);
+
+        assertEquals(ids.size(), response.getIds().size());
+        verify(couponRepository, times(2)).findByIdInAndStatusNot(anyCollection(), any(CouponStatus.class));
+        verify(couponRepository, never()).findByCodeInAndStatusNot(anyCollection(), any(CouponStatus.class));
+    }
+
+    @Test
+    void lookupCoupons_ShouldThrowException_WhenNothingIsRequested() {
+        BusinessRuleException exception = assertThrows(BusinessRuleException.class,
+                () -> couponService.lookupCoupons(new CouponLookupRequest()));
+
+        assertTrue(exception.getMessage().contains("ao menos um ID ou código"));
+    }
 }
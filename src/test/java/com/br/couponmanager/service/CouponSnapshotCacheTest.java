@@ -0,0 +1,108 @@
+package com.br.couponmanager.service;
+
+import com.br.couponmanager.datasource.DataSourceRoutingContext;
+import com.br.couponmanager.domain.Coupon;
+import com.br.couponmanager.domain.CouponStatus;
+import com.br.couponmanager.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponSnapshotCacheTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private CouponSnapshotCache couponSnapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        couponSnapshotCache = new CouponSnapshotCache(couponRepository);
+    }
+
+    @Test
+    void refresh_ShouldKeepEviction_WhenEvictRunsWhileRefreshIsReading() throws Exception {
+        Coupon coupon = activeCoupon("ABC123");
+        couponSnapshotCache.put(coupon);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        // A leitura devolve o cupom ainda ativo, mas ele é removido antes da recarga terminar.
+        when(couponRepository.findByStatusNot(CouponStatus.DELETED)).thenAnswer(invocation -> {
+            reading.countDown();
+            assertTrue(evicted.await(5, TimeUnit.SECONDS));
+            return List.of(coupon);
+        });
+
+        CompletableFuture<Void> refresh = CompletableFuture.runAsync(couponSnapshotCache::refresh);
+        assertTrue(reading.await(5, TimeUnit.SECONDS));
+        couponSnapshotCache.evict("ABC123");
+        evicted.countDown();
+        refresh.get(5, TimeUnit.SECONDS);
+
+        assertTrue(couponSnapshotCache.findByCode("ABC123").isEmpty());
+    }
+
+    @Test
+    void refresh_ShouldKeepNewCoupon_WhenPutRunsWhileRefreshIsReading() {
+        when(couponRepository.findByStatusNot(CouponStatus.DELETED)).thenAnswer(invocation -> {
+            couponSnapshotCache.put(activeCoupon("NEW123"));
+            return List.of();
+        });
+
+        couponSnapshotCache.refresh();
+
+        assertTrue(couponSnapshotCache.findByCode("NEW123").isPresent());
+    }
+
+    @Test
+    void refresh_ShouldApplyDatabaseState_ForWritesCommittedBeforeTheRead() {
+        couponSnapshotCache.put(activeCoupon("OLD123"));
+        couponSnapshotCache.evict("DEL123");
+        when(couponRepository.findByStatusNot(CouponStatus.DELETED)).thenReturn(List.of(activeCoupon("DEL123")));
+
+        couponSnapshotCache.refresh();
+
+        assertTrue(couponSnapshotCache.findByCode("OLD123").isEmpty());
+        assertTrue(couponSnapshotCache.findByCode("DEL123").isPresent());
+    }
+
+    @Test
+    void refresh_ShouldReadFromPrimary() {
+        when(couponRepository.findByStatusNot(CouponStatus.DELETED)).thenAnswer(invocation -> {
+            assertTrue(DataSourceRoutingContext.isPrimaryForced());
+            return List.of();
+        });
+
+        couponSnapshotCache.refresh();
+
+        verify(couponRepository).findByStatusNot(CouponStatus.DELETED);
+        assertFalse(DataSourceRoutingContext.isPrimaryForced());
+    }
+
+    private static Coupon activeCoupon(String code) {
+        return Coupon.builder()
+                .id(UUID.randomUUID())
+                .code(code)
+                .description("Test Coupon")
+                .discountValue(5.0)
+                .expirationDate(Instant.now().plus(1, ChronoUnit.DAYS))
+                .published(true)
+                .redeemed(false)
+                .status(CouponStatus.ACTIVE)
+                .build();
+    }
+}